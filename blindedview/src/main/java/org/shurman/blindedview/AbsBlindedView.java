@@ -1,7 +1,10 @@
 package org.shurman.blindedview;
 
+import android.content.ComponentCallbacks2;
 import android.content.Context;
+import android.content.res.Configuration;
 import android.content.res.TypedArray;
+import android.graphics.Canvas;
 import android.graphics.Color;
 import android.graphics.Paint;
 import android.graphics.PointF;
@@ -9,12 +12,22 @@ import android.graphics.Rect;
 import android.graphics.Typeface;
 import android.graphics.drawable.ColorDrawable;
 import android.graphics.drawable.Drawable;
+import android.os.SystemClock;
 import android.text.TextPaint;
+import android.text.TextUtils;
 import android.util.AttributeSet;
 import android.util.Log;
 import android.util.TypedValue;
 import android.view.View;
 
+import androidx.annotation.DrawableRes;
+import androidx.annotation.Nullable;
+
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+import java.util.WeakHashMap;
+
 public abstract class AbsBlindedView extends View {
     public interface OnInteractionListener {
         void onBlindedItemClick(View view, boolean left);
@@ -22,6 +35,23 @@ public abstract class AbsBlindedView extends View {
         void onBlindSlideCompleted(View view);
     }
 
+    public static final int OPEN_NONE = 0;
+    public static final int OPEN_LEFT = 1;
+    public static final int OPEN_RIGHT = 2;
+
+    /** Keep drawables for the whole view lifetime, the default. */
+    public static final int RELEASE_NEVER = 0;
+    /**
+     * Drop resource-backed drawables on trim-memory signals: every such view when the app UI is hidden,
+     * only views not on screen (detached pooled rows, back stack) when memory runs low in foreground.
+     */
+    public static final int RELEASE_ON_TRIM = 1;
+    /**
+     * As RELEASE_ON_TRIM, and also on detach from window.
+     * Recycled rows then reload their icons on reuse, so opt in only where memory matters more.
+     */
+    public static final int RELEASE_ON_DETACH = 2;
+
     private static final float CONVERSION_THRESHOLD = 20f;               //  todo sensitivity
     private static final float DEFAULT_BLIND_WIDTH = 0.4f;
     private static final float DEFAULT_LATCH_RELEASE = 0.3f;
@@ -39,10 +69,25 @@ public abstract class AbsBlindedView extends View {
     protected CharSequence mText;
     protected TextPaint mTextPaint;
     protected Drawable mBlindBack;
+    //  inflated text style, restored by bind() for unset model fields
+    private final float mDefaultFontSize;
+    private final int mDefaultFontColor;
+    private final Typeface mDefaultFontTypeface;
+    //  resource ids of drawables that can be released and reloaded, 0 if set as instances
+    private int mDrawableLeftRes;
+    private int mDrawableRightRes;
+    private int mBlindBackRes;
+    private int mReleasePolicy;
+    //  released by the policy and pending reload; mBlindBack holds a plain placeholder meanwhile
+    private boolean mDrawableLeftReleased;
+    private boolean mDrawableRightReleased;
+    private boolean mBlindBackReleased;
     //measured
     protected int mScaledViewWidth;
     protected int mScaledViewHeight;
     protected final PointF mRefPoint;
+    protected final BlindGeometry mGeometry;
+    private int mUnmeasuredOpenState;
     protected float mTextOffsetFromLeft;
     protected float mTextOffsetFromRight;
     protected float mTextBaseline;
@@ -51,6 +96,7 @@ public abstract class AbsBlindedView extends View {
         super(context, attrs);
         mTextPaint = new TextPaint(Paint.ANTI_ALIAS_FLAG);
         mTextPaint.setStyle(Paint.Style.FILL_AND_STROKE);
+        mGeometry = new BlindGeometry();
         TypedArray ta = context.getTheme().obtainStyledAttributes(attrs, R.styleable.AbsBlindedView, 0, 0);
         float blindWidth = DEFAULT_BLIND_WIDTH;
         float latchRelease = DEFAULT_LATCH_RELEASE;
@@ -58,6 +104,8 @@ public abstract class AbsBlindedView extends View {
         try {
             mDrawableLeft = ta.getDrawable(R.styleable.AbsBlindedView_drawableLeft);
             mDrawableRight = ta.getDrawable(R.styleable.AbsBlindedView_drawableRight);
+            mDrawableLeftRes = ta.getResourceId(R.styleable.AbsBlindedView_drawableLeft, 0);
+            mDrawableRightRes = ta.getResourceId(R.styleable.AbsBlindedView_drawableRight, 0);
             blindWidth = ta.getFloat(R.styleable.AbsBlindedView_blindWidth, DEFAULT_BLIND_WIDTH);
             latchRelease = ta.getFloat(R.styleable.AbsBlindedView_latchRelease, DEFAULT_LATCH_RELEASE);
 
@@ -82,19 +130,117 @@ public abstract class AbsBlindedView extends View {
             mTextPaint.setTypeface(tface);
             setBlindBack(ta.getDrawable(R.styleable.AbsBlindedView_blindBack));
             if (mBlindBack == null) mBlindBack = new ColorDrawable(Color.WHITE);
+            mBlindBackRes = ta.getResourceId(R.styleable.AbsBlindedView_blindBack, 0);
         } catch (RuntimeException e) { l(e.toString()); }
 
         setBlindWidth(blindWidth);
         setLatchRelease(latchRelease);
 
         mRefPoint = new PointF();
+        mDefaultFontSize = mTextPaint.getTextSize();
+        mDefaultFontColor = mTextPaint.getColor();
+        mDefaultFontTypeface = mTextPaint.getTypeface();
+        mReleasePolicy = RELEASE_NEVER;
     }
 
     public abstract void shut();
 
+    /** Returns OPEN_LEFT / OPEN_RIGHT when the blind is latched or slid off that side's icon, OPEN_NONE otherwise. */
+    public int getOpenState() {
+        return mGeometry.isMeasured() ? computeOpenState() : mUnmeasuredOpenState;
+    }
+
+    /** Latches the blind open on the given side (left icon uncovered for OPEN_LEFT) or shuts it for OPEN_NONE. */
+    public void setOpenState(int openState) {
+        if (openState != OPEN_NONE && openState != OPEN_LEFT && openState != OPEN_RIGHT)
+            throw new IllegalArgumentException("Illegal openState " + openState);
+        if (mGeometry.isMeasured()) placeBlind(openState);
+        else mUnmeasuredOpenState = openState;     //  latch points unknown until onMeasure
+        invalidate();
+    }
+
+    protected abstract int computeOpenState();
+
+    /** Moves the blind to the latch point of openState within the current geometry, no invalidation. */
+    protected abstract void placeBlind(int openState);
+
+    public void bind(BlindedRowModel model) { bind(model, null); }
+
+    /**
+     * Applies the model, touching only the fields that differ from the current view state.
+     * Non-empty RecyclerView payloads of BlindedRowModel.CHANGE_* masks restrict the comparison
+     * to those fields; any other payload falls back to a full comparison.
+     */
+    public void bind(BlindedRowModel model, @Nullable List<Object> payloads) {
+        int scope = payloadsScope(payloads);
+        boolean changed = false;
+        boolean remeasureText = false;
+
+        if ((scope & BlindedRowModel.CHANGE_TEXT) != 0 && !TextUtils.equals(mText, model.getText())) {
+            mText = model.getText();
+            remeasureText = true;
+        }
+        if ((scope & BlindedRowModel.CHANGE_ICONS) != 0) {
+            int res = model.getDrawableLeftRes();
+            if (res != 0 ? res != mDrawableLeftRes
+                    : mDrawableLeftRes != 0 || mDrawableLeft != model.getDrawableLeft()) {
+                if (res != 0) setDrawableLeft(res);
+                else setDrawableLeft(model.getDrawableLeft());
+                measureIconBounds(mDrawableLeft, true);
+                changed = true;
+            }
+            res = model.getDrawableRightRes();
+            if (res != 0 ? res != mDrawableRightRes
+                    : mDrawableRightRes != 0 || mDrawableRight != model.getDrawableRight()) {
+                if (res != 0) setDrawableRight(res);
+                else setDrawableRight(model.getDrawableRight());
+                measureIconBounds(mDrawableRight, false);
+                changed = true;
+            }
+        }
+        if ((scope & BlindedRowModel.CHANGE_STYLE) != 0) {
+            float px = Float.isNaN(model.getFontSize()) ? mDefaultFontSize
+                    : TypedValue.applyDimension(TypedValue.COMPLEX_UNIT_SP, model.getFontSize(), getResources().getDisplayMetrics());
+            if (px != mTextPaint.getTextSize()) {
+                mTextPaint.setTextSize(px);
+                remeasureText = true;
+            }
+            Typeface typeface = model.getFontTypeface() == null ? mDefaultFontTypeface : model.getFontTypeface();
+            if (typeface != mTextPaint.getTypeface() && (typeface == null || !typeface.equals(mTextPaint.getTypeface()))) {
+                mTextPaint.setTypeface(typeface);
+                remeasureText = true;
+            }
+            int color = model.getFontColor() == null ? mDefaultFontColor : model.getFontColor();
+            if (color != mTextPaint.getColor()) {
+                mTextPaint.setColor(color);
+                changed = true;
+            }
+        }
+        if (remeasureText) {
+            measureTextBounds();
+            changed = true;
+        }
+        if ((scope & BlindedRowModel.CHANGE_OPEN_STATE) != 0 && getOpenState() != model.getOpenState()) {
+            setOpenState(model.getOpenState());
+            return;     //  setOpenState() invalidates
+        }
+        if (changed) invalidate();
+    }
+
+    private static int payloadsScope(@Nullable List<Object> payloads) {
+        if (payloads == null || payloads.isEmpty()) return BlindedRowModel.CHANGE_ALL;
+        int scope = 0;
+        for (Object p : payloads) {
+            if (!(p instanceof Integer)) return BlindedRowModel.CHANGE_ALL;
+            scope |= (Integer) p;
+        }
+        return scope;
+    }
+
     public void setBlindWidth(float blindWidth) {
         assert 0f < blindWidth && blindWidth <= 0.5f : "Illegal blindWidth";
         mBlindWidth = blindWidth;
+        remeasureGeometry();
     }
 
     public float getBlindWidth() { return mBlindWidth; }
@@ -102,17 +248,54 @@ public abstract class AbsBlindedView extends View {
     public void setLatchRelease(float latchRelease) {
         assert 0f <= latchRelease && latchRelease <= 1f : "Illegal latchRelease";
         mLatchRelease = latchRelease;
+        remeasureGeometry();
     }
 
     public float getLatchRelease() { return mLatchRelease; }
 
-    public void setDrawableLeft(Drawable d) { mDrawableLeft = d; }
+    /** Recomputes the geometry for new attrs and moves a latched blind onto the new latch point. */
+    private void remeasureGeometry() {
+        int openState = getOpenState();
+        mGeometry.measure(mGeometry.getViewWidth(), mBlindWidth, mLatchRelease);
+        if (mGeometry.isMeasured()) {
+            placeBlind(openState);
+            invalidate();
+        }
+    }
+
+    public void setDrawableLeft(Drawable d) {
+        mDrawableLeft = d;
+        mDrawableLeftRes = 0;
+        mDrawableLeftReleased = false;
+    }
 
-    public Drawable getDrawableLeft() { return mDrawableLeft; }
+    /** Same as setDrawableLeft(Drawable), but lets the release policy drop and reload the icon. */
+    public void setDrawableLeft(@DrawableRes int resId) {
+        setDrawableLeft(resId == 0 ? null : getContext().getDrawable(resId));
+        mDrawableLeftRes = resId;
+    }
 
-    public void setDrawableRight(Drawable d) { mDrawableRight = d; }
+    public Drawable getDrawableLeft() {
+        restoreResources();
+        return mDrawableLeft;
+    }
 
-    public Drawable getDrawableRight() { return mDrawableRight; }
+    public void setDrawableRight(Drawable d) {
+        mDrawableRight = d;
+        mDrawableRightRes = 0;
+        mDrawableRightReleased = false;
+    }
+
+    /** Same as setDrawableRight(Drawable), but lets the release policy drop and reload the icon. */
+    public void setDrawableRight(@DrawableRes int resId) {
+        setDrawableRight(resId == 0 ? null : getContext().getDrawable(resId));
+        mDrawableRightRes = resId;
+    }
+
+    public Drawable getDrawableRight() {
+        restoreResources();
+        return mDrawableRight;
+    }
 
     public void setText(CharSequence text) {
         if (text == null) { mText = ""; }
@@ -142,23 +325,159 @@ public abstract class AbsBlindedView extends View {
 
     public void setBlindBack(Drawable blindBack) {
         mBlindBack = blindBack;
+        mBlindBackRes = 0;
+        mBlindBackReleased = false;
         if (mBlindBack == null) mBlindBack = new ColorDrawable(Color.WHITE);
     }
 
-    public Drawable getBlindBack() { return mBlindBack; }
+    /** Same as setBlindBack(Drawable), but lets the release policy drop and reload the background. */
+    public void setBlindBack(@DrawableRes int resId) {
+        setBlindBack(resId == 0 ? null : getContext().getDrawable(resId));
+        mBlindBackRes = resId;
+    }
+
+    public Drawable getBlindBack() {
+        restoreResources();
+        return mBlindBack;
+    }
+
+    /**
+     * One of RELEASE_NEVER, RELEASE_ON_TRIM, RELEASE_ON_DETACH, effective at once whether or not
+     * the view is attached.
+     */
+    public void setReleasePolicy(int policy) {
+        if (policy != RELEASE_NEVER && policy != RELEASE_ON_TRIM && policy != RELEASE_ON_DETACH)
+            throw new IllegalArgumentException("Illegal release policy " + policy);
+        mReleasePolicy = policy;
+        if (policy == RELEASE_NEVER) TrimCallbacks.remove(this);
+        else TrimCallbacks.add(this);
+    }
+
+    public int getReleasePolicy() { return mReleasePolicy; }
+
+    @Override
+    protected void onDetachedFromWindow() {
+        super.onDetachedFromWindow();
+        if (mReleasePolicy == RELEASE_ON_DETACH) releaseResources();
+    }
+
+    /**
+     * One process-wide callback, registered with the Application on first use, releasing views
+     * whose policy is not RELEASE_NEVER. Views are held weakly, attached or not, so pooled and
+     * back-stack views get trim signals too and are never leaked.
+     */
+    private static final class TrimCallbacks implements ComponentCallbacks2 {
+        private static final Set<AbsBlindedView> sViews = Collections.newSetFromMap(new WeakHashMap<AbsBlindedView, Boolean>());
+        private static TrimCallbacks sInstance;
+
+        static void add(AbsBlindedView view) {
+            if (sInstance == null) {
+                sInstance = new TrimCallbacks();
+                view.getContext().getApplicationContext().registerComponentCallbacks(sInstance);
+            }
+            sViews.add(view);
+        }
+
+        static void remove(AbsBlindedView view) { sViews.remove(view); }
+
+        /** Releases all registered views, or with offScreenOnly those not visible, as they would reload at once. */
+        private static void release(boolean offScreenOnly) {
+            for (AbsBlindedView view : sViews.toArray(new AbsBlindedView[0])) {
+                if (!offScreenOnly || view.getWindowVisibility() != VISIBLE) view.releaseResources();
+            }
+        }
+
+        @Override
+        public void onTrimMemory(int level) {
+            if (level >= TRIM_MEMORY_UI_HIDDEN) release(false);
+            else if (level >= TRIM_MEMORY_RUNNING_LOW) release(true);
+        }
+
+        @Override
+        public void onLowMemory() { release(true); }
+
+        @Override
+        public void onConfigurationChanged(Configuration newConfig) {}
+    }
+
+    /**
+     * Drops the drawables that were loaded from resources; they are reloaded by restoreResources()
+     * on the next measure or draw. Drawables set as instances are kept, as they cannot be recreated.
+     */
+    private void releaseResources() {
+        if (mReleasePolicy == RELEASE_NEVER) return;
+        boolean released = false;
+        if (mDrawableLeftRes != 0 && !mDrawableLeftReleased && mDrawableLeft != null) {
+            BlindedResourceStats.recordDropped(mDrawableLeft);
+            mDrawableLeft = null;
+            mDrawableLeftReleased = released = true;
+        }
+        if (mDrawableRightRes != 0 && !mDrawableRightReleased && mDrawableRight != null) {
+            BlindedResourceStats.recordDropped(mDrawableRight);
+            mDrawableRight = null;
+            mDrawableRightReleased = released = true;
+        }
+        if (mBlindBackRes != 0 && !mBlindBackReleased) {
+            BlindedResourceStats.recordDropped(mBlindBack);
+            mBlindBack = new ColorDrawable(Color.WHITE);     //  keeps the field non-null for subclasses
+            mBlindBackReleased = released = true;
+        }
+        if (!released) return;
+        BlindedResourceStats.recordRelease();
+        invalidate();       //  a cached display list would keep drawing, and referencing, the dropped bitmaps
+    }
+
+    private void restoreResources() {
+        if (!mDrawableLeftReleased && !mDrawableRightReleased && !mBlindBackReleased) return;
+        long start = SystemClock.elapsedRealtimeNanos();
+        Context context = getContext();
+        if (mDrawableLeftReleased) {
+            mDrawableLeftReleased = false;
+            mDrawableLeft = context.getDrawable(mDrawableLeftRes);
+            BlindedResourceStats.recordReloaded(mDrawableLeft);
+            measureIconBounds(mDrawableLeft, true);
+        }
+        if (mDrawableRightReleased) {
+            mDrawableRightReleased = false;
+            mDrawableRight = context.getDrawable(mDrawableRightRes);
+            BlindedResourceStats.recordReloaded(mDrawableRight);
+            measureIconBounds(mDrawableRight, false);
+        }
+        if (mBlindBackReleased) {
+            mBlindBackReleased = false;
+            mBlindBack = context.getDrawable(mBlindBackRes);
+            BlindedResourceStats.recordReloaded(mBlindBack);
+            if (mBlindBack == null) mBlindBack = new ColorDrawable(Color.WHITE);
+        }
+        BlindedResourceStats.recordRestore(SystemClock.elapsedRealtimeNanos() - start);
+    }
 
     @Override
     protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
+        restoreResources();
         super.onMeasure(widthMeasureSpec, heightMeasureSpec);
 
         mScaledViewWidth = getMeasuredWidth();
         mScaledViewHeight = getMeasuredHeight();
 
+        if (mGeometry.getViewWidth() != mScaledViewWidth) {
+            int openState = getOpenState();
+            mGeometry.measure(mScaledViewWidth, mBlindWidth, mLatchRelease);
+            if (mGeometry.isMeasured()) placeBlind(openState);
+            else mUnmeasuredOpenState = openState;
+        }
+
         measureIconBounds(mDrawableLeft, true);
         measureIconBounds(mDrawableRight, false);
         measureTextBounds();
     }
 
+    @Override
+    protected void onDraw(Canvas canvas) {
+        super.onDraw(canvas);
+        restoreResources();     //  trimmed while attached and laid out
+    }
+
     private void measureIconBounds(Drawable icon, boolean left) {     //    TODO remeasure with paddings and !allowed frame size!
         if (icon == null) return;
         int iw = icon.getIntrinsicWidth();
@@ -0,0 +1,134 @@
+package org.shurman.blindedview;
+
+/**
+ * Blind layout in view pixels, recomputed when the view is measured or its blind attrs change,
+ * so touch handling and drawing never convert from relative coordinates.
+ * For {@link BlindedView} positions are blind edges (0..width), for {@link SingleBlindView}
+ * they are blind offsets from the closed position (-blindWidth..blindWidth).
+ */
+final class BlindGeometry {
+    private int mViewWidth;
+    private int mBlindWidth;
+    private int mLatchOffset;
+    private int mLeftBlindBase;
+    private int mRightBlindBase;
+    private int mLeftLatch;
+    private int mRightLatch;
+    //  touch reference x left by the last slide*() call
+    private float mSlideRef;
+
+    void measure(int viewWidth, float blindWidth, float latchRelease) {
+        mViewWidth = viewWidth;
+        mBlindWidth = (int) (viewWidth * blindWidth);     //  float product, as the relative code scaled it
+        //  rounded from the unrounded width, clamped so the latch never passes the base
+        mLatchOffset = Math.min((int) Math.round((double) viewWidth * blindWidth * (1.0 - latchRelease)), mBlindWidth);
+        mLeftBlindBase = mBlindWidth;
+        mRightBlindBase = viewWidth - mBlindWidth;
+        mLeftLatch = mLatchOffset;
+        mRightLatch = viewWidth - mLatchOffset;
+    }
+
+    boolean isMeasured() { return mViewWidth > 0; }
+
+    int getViewWidth() { return mViewWidth; }
+
+    /** Max offset of the single blind to either side. */
+    int getBlindSentinel() { return mBlindWidth; }
+
+    /** Offset the single blind latches at when released far enough. */
+    int getLatchOffset() { return mLatchOffset; }
+
+    int getLeftBlindBase() { return mLeftBlindBase; }
+
+    int getRightBlindBase() { return mRightBlindBase; }
+
+    int getLeftLatch() { return mLeftLatch; }
+
+    int getRightLatch() { return mRightLatch; }
+
+    /** Touch on or under the left blind of BlindedView. */
+    boolean inLeftBlindArea(float x) { return x < mLeftBlindBase; }
+
+    /** Touch on or under the right blind of BlindedView. */
+    boolean inRightBlindArea(float x) { return x > mRightBlindBase; }
+
+    /** Touch uncovered to the left of the single blind at offset. */
+    boolean leftOfSingleBlind(float offset, float x) { return x < offset; }
+
+    /** Touch uncovered to the right of the single blind at offset. */
+    boolean rightOfSingleBlind(float offset, float x) { return x > offset + mViewWidth; }
+
+    /** Reference x to use for the next move after a slide*() call. */
+    float getSlideRef() { return mSlideRef; }
+
+    /**
+     * Moves the left blind edge of BlindedView by the touch advance from refX to x, within 0..left base.
+     * A touch past either end only snaps the edge to that end once; see getSlideRef().
+     */
+    float slideLeftBlind(float position, float refX, float x) {
+        mSlideRef = refX;
+        if (x <= 0f) {      //  outside left (view) boundary
+            if (position > 0f) {
+                position = 0f;
+                mSlideRef = 0f;
+            }
+            return position;
+        }
+        if (x >= mLeftBlindBase) {      //  outside right boundary
+            if (refX < mLeftBlindBase) {
+                position = Math.min(position + mLeftBlindBase - refX, mLeftBlindBase);
+                mSlideRef = mLeftBlindBase;
+            }
+            return position;
+        }
+        mSlideRef = x;
+        return clamp(position + x - refX, 0f, mLeftBlindBase);
+    }
+
+    /** Mirror of slideLeftBlind() for the right blind edge, within right base..width. */
+    float slideRightBlind(float position, float refX, float x) {
+        mSlideRef = refX;
+        if (x > mViewWidth) {       //  outside right (view) boundary
+            if (position < mViewWidth) {
+                position = mViewWidth;
+                mSlideRef = mViewWidth;
+            }
+            return position;
+        }
+        if (x <= mRightBlindBase) {     //  outside inner boundary
+            if (refX > mRightBlindBase) {
+                position = Math.max(position + mRightBlindBase - refX, mRightBlindBase);
+                mSlideRef = mRightBlindBase;
+            }
+            return position;
+        }
+        mSlideRef = x;
+        return clamp(position + x - refX, mRightBlindBase, mViewWidth);
+    }
+
+    /** Moves the single blind offset by the touch advance, the touch clamped to the view, within the sentinels. */
+    float slideSingleBlind(float offset, float refX, float x) {
+        mSlideRef = clamp(x, 0f, mViewWidth);
+        return clamp(offset + mSlideRef - refX, -mBlindWidth, mBlindWidth);
+    }
+
+    /** Released left blind edge: latched if slid past the latch point, else NaN for closed. */
+    float latchLeftBlind(float position) { return position < mLeftLatch ? Float.NaN : mLeftLatch; }
+
+    /** Released right blind edge: latched if slid past the latch point, else NaN for closed. */
+    float latchRightBlind(float position) { return position > mRightLatch ? Float.NaN : mRightLatch; }
+
+    /** Released single blind offset: latched on its open side if slid past the latch point, else 0. */
+    float latchSingleBlind(float offset) {
+        if (offset > 0f) return offset >= mLatchOffset ? mLatchOffset : 0f;
+        if (offset < 0f) return offset <= -mLatchOffset ? -mLatchOffset : 0f;
+        return 0f;
+    }
+
+    static float clamp(float value, float min, float max) {
+        return value < min ? min : value > max ? max : value;
+    }
+
+    /** Pixel edge drawn for a position, rounding half away from zero so mirrored positions snap alike. */
+    static int snap(float position) { return (int) Math.copySign(Math.round(Math.abs(position)), position); }
+}
@@ -0,0 +1,93 @@
+package org.shurman.blindedview;
+
+import android.graphics.Bitmap;
+import android.graphics.drawable.BitmapDrawable;
+import android.graphics.drawable.Drawable;
+
+import java.util.Collections;
+import java.util.Set;
+import java.util.WeakHashMap;
+
+/**
+ * Process-wide counters of the {@link AbsBlindedView} resource release policy,
+ * for tuning {@link AbsBlindedView#setReleasePolicy(int)}.
+ * Drawables loaded from the same resource share one bitmap, so released bytes count each shared
+ * bitmap (or drawable state) once until some view reloads it. The figure is an upper bound: memory
+ * is only reclaimed once no other view or cache still references the bitmap.
+ * Sizes are bitmap allocations, or intrinsic sizes at 4 bytes per pixel for other drawables.
+ */
+public final class BlindedResourceStats {
+    private static final Set<Object> sReleasedStates = Collections.newSetFromMap(new WeakHashMap<Object, Boolean>());
+    private static long sReleaseCount;
+    private static long sDroppedReferenceCount;
+    private static long sReleasedBytes;
+    private static long sRestoreCount;
+    private static long sRestoreNanos;
+    private static long sMaxRestoreNanos;
+
+    private BlindedResourceStats() {}
+
+    static synchronized void recordRelease() { sReleaseCount++; }
+
+    static synchronized void recordDropped(Drawable d) {
+        sDroppedReferenceCount++;
+        if (sReleasedStates.add(sharedState(d))) sReleasedBytes += estimateBytes(d);
+    }
+
+    static synchronized void recordReloaded(Drawable d) {
+        if (d != null) sReleasedStates.remove(sharedState(d));
+    }
+
+    static synchronized void recordRestore(long nanos) {
+        sRestoreCount++;
+        sRestoreNanos += nanos;
+        if (nanos > sMaxRestoreNanos) sMaxRestoreNanos = nanos;
+    }
+
+    /** Number of times a view dropped its drawables. */
+    public static synchronized long getReleaseCount() { return sReleaseCount; }
+
+    /** Number of drawable references dropped, shared bitmaps counted once per view. */
+    public static synchronized long getDroppedReferenceCount() { return sDroppedReferenceCount; }
+
+    /** Estimated bytes of distinct bitmaps whose references were dropped, see the class comment. */
+    public static synchronized long getReleasedBytes() { return sReleasedBytes; }
+
+    public static synchronized long getRestoreCount() { return sRestoreCount; }
+
+    public static synchronized long getTotalRestoreNanos() { return sRestoreNanos; }
+
+    public static synchronized long getAverageRestoreNanos() {
+        return sRestoreCount == 0 ? 0 : sRestoreNanos / sRestoreCount;
+    }
+
+    public static synchronized long getMaxRestoreNanos() { return sMaxRestoreNanos; }
+
+    public static synchronized void reset() {
+        sReleasedStates.clear();
+        sReleaseCount = 0;
+        sDroppedReferenceCount = 0;
+        sReleasedBytes = 0;
+        sRestoreCount = 0;
+        sRestoreNanos = 0;
+        sMaxRestoreNanos = 0;
+    }
+
+    /** The object instances of one resource share: their bitmap, else their constant state. */
+    private static Object sharedState(Drawable d) {
+        if (d instanceof BitmapDrawable && ((BitmapDrawable) d).getBitmap() != null)
+            return ((BitmapDrawable) d).getBitmap();
+        Drawable.ConstantState state = d.getConstantState();
+        return state != null ? state : d;
+    }
+
+    private static long estimateBytes(Drawable d) {
+        if (d instanceof BitmapDrawable) {
+            Bitmap bitmap = ((BitmapDrawable) d).getBitmap();
+            return bitmap == null || bitmap.isRecycled() ? 0 : bitmap.getAllocationByteCount();
+        }
+        int w = d.getIntrinsicWidth();
+        int h = d.getIntrinsicHeight();
+        return w > 0 && h > 0 ? 4L * w * h : 0;
+    }
+}
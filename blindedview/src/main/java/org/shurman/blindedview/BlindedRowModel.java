@@ -0,0 +1,163 @@
+package org.shurman.blindedview;
+
+import android.graphics.Typeface;
+import android.graphics.drawable.Drawable;
+import android.text.TextUtils;
+
+import androidx.annotation.DrawableRes;
+import androidx.annotation.Nullable;
+
+/**
+ * Immutable content of a single {@link AbsBlindedView} row, applied with {@link AbsBlindedView#bind}.
+ * Icons given as resource ids are compared by value and loaded by each view into its own instance,
+ * which also lets the view's release policy drop and reload them. Icons given as Drawable instances
+ * are compared by identity and must not be shared between views (use mutate()), since the view sets
+ * their bounds.
+ * Style fields left unset (NaN font size, null color / typeface) reset to the view's inflated style,
+ * so a recycled view never carries over the previous row's style.
+ */
+public final class BlindedRowModel {
+    public static final int CHANGE_TEXT = 1;
+    public static final int CHANGE_ICONS = 2;
+    public static final int CHANGE_STYLE = 4;
+    public static final int CHANGE_OPEN_STATE = 8;
+    public static final int CHANGE_ALL = CHANGE_TEXT | CHANGE_ICONS | CHANGE_STYLE | CHANGE_OPEN_STATE;
+
+    private final CharSequence mText;
+    private final Drawable mDrawableLeft;
+    private final Drawable mDrawableRight;
+    private final int mDrawableLeftRes;
+    private final int mDrawableRightRes;
+    private final float mFontSize;
+    private final Integer mFontColor;
+    private final Typeface mFontTypeface;
+    private final int mOpenState;
+
+    private BlindedRowModel(Builder b) {
+        mText = b.mText == null ? "" : b.mText.toString();
+        mDrawableLeft = b.mDrawableLeft;
+        mDrawableRight = b.mDrawableRight;
+        mDrawableLeftRes = b.mDrawableLeftRes;
+        mDrawableRightRes = b.mDrawableRightRes;
+        mFontSize = b.mFontSize;
+        mFontColor = b.mFontColor;
+        mFontTypeface = b.mFontTypeface;
+        mOpenState = b.mOpenState;
+    }
+
+    public CharSequence getText() { return mText; }
+
+    @Nullable
+    public Drawable getDrawableLeft() { return mDrawableLeft; }
+
+    @Nullable
+    public Drawable getDrawableRight() { return mDrawableRight; }
+
+    /** Resource id of the left icon, 0 if unset or given as a Drawable. */
+    @DrawableRes
+    public int getDrawableLeftRes() { return mDrawableLeftRes; }
+
+    /** Resource id of the right icon, 0 if unset or given as a Drawable. */
+    @DrawableRes
+    public int getDrawableRightRes() { return mDrawableRightRes; }
+
+    /** Font size in sp, NaN if unset. */
+    public float getFontSize() { return mFontSize; }
+
+    @Nullable
+    public Integer getFontColor() { return mFontColor; }
+
+    @Nullable
+    public Typeface getFontTypeface() { return mFontTypeface; }
+
+    public int getOpenState() { return mOpenState; }
+
+    public Builder buildUpon() {
+        Builder b = new Builder().setText(mText);
+        if (mDrawableLeftRes != 0) b.setDrawableLeft(mDrawableLeftRes);
+        else b.setDrawableLeft(mDrawableLeft);
+        if (mDrawableRightRes != 0) b.setDrawableRight(mDrawableRightRes);
+        else b.setDrawableRight(mDrawableRight);
+        return b.setFontSize(mFontSize)
+                .setFontColor(mFontColor)
+                .setFontTypeface(mFontTypeface)
+                .setOpenState(mOpenState);
+    }
+
+    /**
+     * Returns the mask of CHANGE_* flags that differ between two models, 0 if none.
+     * Suitable as a RecyclerView payload from DiffUtil.ItemCallback.getChangePayload().
+     */
+    public static int diff(@Nullable BlindedRowModel oldModel, @Nullable BlindedRowModel newModel) {
+        if (oldModel == newModel) return 0;
+        if (oldModel == null || newModel == null) return CHANGE_ALL;
+        int changes = 0;
+        if (!TextUtils.equals(oldModel.mText, newModel.mText))
+            changes |= CHANGE_TEXT;
+        if (oldModel.mDrawableLeftRes != newModel.mDrawableLeftRes || oldModel.mDrawableRightRes != newModel.mDrawableRightRes
+                || oldModel.mDrawableLeft != newModel.mDrawableLeft || oldModel.mDrawableRight != newModel.mDrawableRight)
+            changes |= CHANGE_ICONS;
+        if (Float.compare(oldModel.mFontSize, newModel.mFontSize) != 0
+                || !equal(oldModel.mFontColor, newModel.mFontColor)
+                || !equal(oldModel.mFontTypeface, newModel.mFontTypeface))
+            changes |= CHANGE_STYLE;
+        if (oldModel.mOpenState != newModel.mOpenState)
+            changes |= CHANGE_OPEN_STATE;
+        return changes;
+    }
+
+    private static boolean equal(Object a, Object b) { return a == null ? b == null : a.equals(b); }
+
+    public static final class Builder {
+        private CharSequence mText = "";
+        private Drawable mDrawableLeft;
+        private Drawable mDrawableRight;
+        private int mDrawableLeftRes;
+        private int mDrawableRightRes;
+        private float mFontSize = Float.NaN;
+        private Integer mFontColor;
+        private Typeface mFontTypeface;
+        private int mOpenState = AbsBlindedView.OPEN_NONE;
+
+        public Builder setText(@Nullable CharSequence text) { mText = text; return this; }
+
+        public Builder setDrawableLeft(@Nullable Drawable d) {
+            mDrawableLeft = d;
+            mDrawableLeftRes = 0;
+            return this;
+        }
+
+        public Builder setDrawableLeft(@DrawableRes int resId) {
+            mDrawableLeft = null;
+            mDrawableLeftRes = resId;
+            return this;
+        }
+
+        public Builder setDrawableRight(@Nullable Drawable d) {
+            mDrawableRight = d;
+            mDrawableRightRes = 0;
+            return this;
+        }
+
+        public Builder setDrawableRight(@DrawableRes int resId) {
+            mDrawableRight = null;
+            mDrawableRightRes = resId;
+            return this;
+        }
+
+        public Builder setFontSize(float sp) { mFontSize = sp; return this; }
+
+        public Builder setFontColor(@Nullable Integer color) { mFontColor = color; return this; }
+
+        public Builder setFontTypeface(@Nullable Typeface typeface) { mFontTypeface = typeface; return this; }
+
+        public Builder setOpenState(int openState) {
+            assert openState == AbsBlindedView.OPEN_NONE || openState == AbsBlindedView.OPEN_LEFT
+                    || openState == AbsBlindedView.OPEN_RIGHT : "Illegal openState";
+            mOpenState = openState;
+            return this;
+        }
+
+        public BlindedRowModel build() { return new BlindedRowModel(this); }
+    }
+}
@@ -24,23 +24,15 @@ public class BlindedView extends AbsBlindedView {
     private static final int STATE_NOTHING = 0;
     private static final int STATE_MASK = 0x30;
 //---------------------------------------------------------------------------
-//  attrs
-    private float mLeftBlindBaseRelative;
-    private float mRightBlindBaseRelative;
-    private float mLeftLatchRelative;
-    private float mRightLatchRelative;
-//  measured
-    private int mScaledLeftBlindBase;
-    private int mScaledRightBlindBase;
-//  moving blind variables
-    private float mMovingBlindPositionRelative;
+//  moving blind variables, edge position in pixels
+    private float mMovingBlindPosition;
     private int mBlindsFlags;
 //--------------------------------------------------------------------------
 
     public BlindedView(Context context, AttributeSet attrs) {
         super(context, attrs);
 
-        mMovingBlindPositionRelative = Float.NaN;
+        mMovingBlindPosition = Float.NaN;
         mBlindsFlags = 0;
 
         super.setOnClickListener(v -> {
@@ -54,7 +46,7 @@ public class BlindedView extends AbsBlindedView {
                         mOnInteractionListener.onBlindedItemClick(this, false);
                     break;
                 case BUTTON_NONE:
-                    mMovingBlindPositionRelative = Float.NaN;
+                    mMovingBlindPosition = Float.NaN;
                     invalidate();
                     if (null != mOnInteractionListener)
                         mOnInteractionListener.onBlindClick(this);
@@ -65,22 +57,6 @@ public class BlindedView extends AbsBlindedView {
         });
     }
 
-    @Override
-    public void setBlindWidth(float blindWidth) {
-        super.setBlindWidth(blindWidth);
-        mLeftBlindBaseRelative = blindWidth;
-        mRightBlindBaseRelative = 1 - blindWidth;
-        mLeftLatchRelative = mLeftBlindBaseRelative * (1 - getLatchRelease());
-        mRightLatchRelative = mRightBlindBaseRelative + blindWidth * getLatchRelease();
-    }
-
-    @Override
-    public void setLatchRelease(float latchRelease) {
-        super.setLatchRelease(latchRelease);
-        mLeftLatchRelative = mLeftBlindBaseRelative * (1 - latchRelease);
-        mRightLatchRelative = mRightBlindBaseRelative + getBlindWidth() * latchRelease;
-    }
-
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -91,34 +67,27 @@ public class BlindedView extends AbsBlindedView {
         String text = mText.toString();
 
         float textStart;
-        float blindLeft, blindRight;
+        int blindLeft, blindRight;
         if (blindsClosed()) {
             textStart = mTextOffsetFromLeft;
             blindLeft = 0;
             blindRight = mScaledViewWidth;
         } else if (leftBlindOpen()) {
-            blindLeft = mMovingBlindPositionRelative * mScaledViewWidth;
+            blindLeft = BlindGeometry.snap(mMovingBlindPosition);
             textStart = blindLeft + mTextOffsetFromLeft;
             blindRight = mScaledViewWidth;
         } else if (rightBlindOpen()) {
-            blindRight = mMovingBlindPositionRelative * mScaledViewWidth;
+            blindRight = BlindGeometry.snap(mMovingBlindPosition);
             textStart = blindRight - mTextOffsetFromRight;
             blindLeft = 0;
         }
         else throw new IllegalStateException("Illegal BlindedView state at onDraw");
 
-        mBlindBack.setBounds((int)blindLeft, 0, (int)blindRight, mScaledViewHeight);
+        mBlindBack.setBounds(blindLeft, 0, blindRight, mScaledViewHeight);
         mBlindBack.draw(canvas);
         canvas.drawText(text, textStart, mTextBaseline, mTextPaint);
     }
 
-    @Override
-    protected void onMeasure(int widthMeasureSpec, int heightMeasureSpec) {
-        super.onMeasure(widthMeasureSpec, heightMeasureSpec);
-        mScaledLeftBlindBase = (int) (mScaledViewWidth * mLeftBlindBaseRelative);
-        mScaledRightBlindBase = (int) (mScaledViewWidth * mRightBlindBaseRelative);
-    }
-
     @Override
     public void setOnClickListener(@Nullable OnClickListener l) {}
 
@@ -150,18 +119,18 @@ public class BlindedView extends AbsBlindedView {
                         if (blindsMasked == BLINDS_BRIDGE) break;
                         mBlindsFlags = (mBlindsFlags & ~STATE_MASK) | STATE_SLIDE;
                         if (blindsMasked == BLIND_L && rightBlindOpen()) {
-                            mMovingBlindPositionRelative = 0f;
+                            mMovingBlindPosition = 0f;
                             slideLeftBlind(x);
                             invalidate();
                             break;
                         } else if (blindsMasked == BLIND_R && leftBlindOpen()) {
-                            mMovingBlindPositionRelative = 1f;
+                            mMovingBlindPosition = mScaledViewWidth;
                             slideRightBlind(x);
                             invalidate();
                             break;
                         }
                     case STATE_SLIDE:
-                        float oldPos = mMovingBlindPositionRelative;
+                        float oldPos = mMovingBlindPosition;
                         switch (mBlindsFlags & BLINDS_MASK) {
                             case BLIND_L:
                                 slideLeftBlind(x);
@@ -170,9 +139,9 @@ public class BlindedView extends AbsBlindedView {
                                 slideRightBlind(x);
                                 break;
                             default:
-                                throw new IllegalStateException("Illegal BlindedView moving state; pos" + mMovingBlindPositionRelative);
+                                throw new IllegalStateException("Illegal BlindedView moving state; pos" + mMovingBlindPosition);
                         }
-                        if (mMovingBlindPositionRelative != oldPos) {
+                        if (mMovingBlindPosition != oldPos) {
                             invalidate();
                         }
                         break;
@@ -187,23 +156,22 @@ public class BlindedView extends AbsBlindedView {
 
     private void rememberBlindsDownParams(float x, float y) {
         mRefPoint.set(x, y);
-        float relativeX = x / mScaledViewWidth;
-        if (relativeX < mLeftBlindBaseRelative) {       //  on / under LEFT blind
+        if (mGeometry.inLeftBlindArea(x)) {       //  on / under LEFT blind
             if (blindsClosed()) {   //  closed both
                 mBlindsFlags = BLIND_L | STATE_SLIDE;
-                mMovingBlindPositionRelative = 0f;
-            } else if (rightBlindOpen() || relativeX >= mMovingBlindPositionRelative) {  //  on left blind
+                mMovingBlindPosition = 0f;
+            } else if (rightBlindOpen() || x >= mMovingBlindPosition) {  //  on left blind
                 mBlindsFlags = BLIND_L | STATE_CLICK;
             } else if (withinIcon(x, y, mDrawableLeft)) {   //  click on left icon
                 mBlindsFlags = BUTTON_L | STATE_CLICK;
             } else {        //  click outside open blind and icon
                 mBlindsFlags = STATE_NOTHING;
             }
-        } else if (relativeX > mRightBlindBaseRelative) {      //  on / under RIGHT blind
+        } else if (mGeometry.inRightBlindArea(x)) {      //  on / under RIGHT blind
             if (blindsClosed()) {   //  closed both
                 mBlindsFlags = BLIND_R | STATE_SLIDE;
-                mMovingBlindPositionRelative = 1f;
-            } else if (leftBlindOpen() || relativeX <= mMovingBlindPositionRelative) {   //  on right blind
+                mMovingBlindPosition = mScaledViewWidth;
+            } else if (leftBlindOpen() || x <= mMovingBlindPosition) {   //  on right blind
                 mBlindsFlags = BLIND_R | STATE_CLICK;
             } else if (withinIcon(x, y, mDrawableRight)) {  //  on right icon
                 mBlindsFlags = BUTTON_R | STATE_CLICK;
@@ -219,53 +187,13 @@ public class BlindedView extends AbsBlindedView {
     }
 
     private void slideLeftBlind(float x) {
-        if (x <= 0f) {      //  outside left (view) boundary
-            if (mMovingBlindPositionRelative > 0f) {
-                mMovingBlindPositionRelative = 0f;
-                mRefPoint.x = 0f;
-            }
-            return;
-        }
-        if (x >= mScaledLeftBlindBase) {    //  outside right boundary
-            if (mRefPoint.x < mScaledLeftBlindBase) {
-                mMovingBlindPositionRelative += (mScaledLeftBlindBase - mRefPoint.x) / mScaledViewWidth;
-                if (mMovingBlindPositionRelative > mLeftBlindBaseRelative)
-                    mMovingBlindPositionRelative = mLeftBlindBaseRelative;
-                mRefPoint.x = mScaledLeftBlindBase;
-            }
-            return;
-        }
-        mMovingBlindPositionRelative += (x - mRefPoint.x) / mScaledViewWidth;
-        if (mMovingBlindPositionRelative < 0f)
-            mMovingBlindPositionRelative = 0f;
-        else if (mMovingBlindPositionRelative > mLeftBlindBaseRelative)
-            mMovingBlindPositionRelative = mLeftBlindBaseRelative;
-        mRefPoint.x = x;
+        mMovingBlindPosition = mGeometry.slideLeftBlind(mMovingBlindPosition, mRefPoint.x, x);
+        mRefPoint.x = mGeometry.getSlideRef();
     }
 
     private void slideRightBlind(float x) {
-        if (x > mScaledViewWidth) {     //  outside right (view) boundary
-            if (mMovingBlindPositionRelative < 1f) {
-                mMovingBlindPositionRelative = 1f;
-                mRefPoint.x = mScaledViewWidth;
-            }
-            return;
-        }
-        if (x <= mScaledRightBlindBase) {   //  outside inner boundary
-            if (mRefPoint.x > mScaledRightBlindBase) {
-                mMovingBlindPositionRelative += (mScaledRightBlindBase - mRefPoint.x) / mScaledViewWidth;
-                if (mMovingBlindPositionRelative < mRightBlindBaseRelative)
-                    mMovingBlindPositionRelative = mRightBlindBaseRelative;
-                mRefPoint.x = mScaledRightBlindBase;
-            }
-            return;
-        }
-        mMovingBlindPositionRelative += (x - mRefPoint.x) / mScaledViewWidth;
-        if (mMovingBlindPositionRelative > 1f)
-            mMovingBlindPositionRelative = 1f;
-        else if (mMovingBlindPositionRelative < mRightBlindBaseRelative)
-            mMovingBlindPositionRelative = mRightBlindBaseRelative;
-        mRefPoint.x = x;
+        mMovingBlindPosition = mGeometry.slideRightBlind(mMovingBlindPosition, mRefPoint.x, x);
+        mRefPoint.x = mGeometry.getSlideRef();
     }
 
     private void finalizeTouchInteraction(float x, float y, boolean correctly) {
@@ -281,7 +209,7 @@ public class BlindedView extends AbsBlindedView {
                 } else if (buttonsMasked == BUTTON_R) {
                     if(!withinIcon(x, y, mDrawableRight)) break;
                 } else if (blindsMasked == BLINDS_BRIDGE
-                        && (x < mScaledLeftBlindBase || x > mScaledRightBlindBase || y < 0 || y > mScaledViewHeight)) {
+                        && (mGeometry.inLeftBlindArea(x) || mGeometry.inRightBlindArea(x) || y < 0 || y > mScaledViewHeight)) {
                     break;
                 }
                 performClick();
@@ -289,12 +217,10 @@ public class BlindedView extends AbsBlindedView {
             case STATE_SLIDE:
                 switch (blindsMasked) {
                     case BLIND_L:
-                        mMovingBlindPositionRelative = mMovingBlindPositionRelative < mLeftLatchRelative
-                                ? Float.NaN : mLeftLatchRelative;
+                        mMovingBlindPosition = mGeometry.latchLeftBlind(mMovingBlindPosition);
                         break;
                     case BLIND_R:
-                        mMovingBlindPositionRelative = mMovingBlindPositionRelative > mRightLatchRelative
-                                ? Float.NaN : mRightLatchRelative;
+                        mMovingBlindPosition = mGeometry.latchRightBlind(mMovingBlindPosition);
                         break;
                     default:
                         throw new IllegalStateException("Illegal blinds configuration at finalizeTouch");
@@ -312,12 +238,31 @@ public class BlindedView extends AbsBlindedView {
     }
 
     @Override
-    public void shut() {
-        mMovingBlindPositionRelative = Float.NaN;
-        invalidate();
+    public void shut() { setOpenState(OPEN_NONE); }
+
+    @Override
+    protected int computeOpenState() {
+        if (blindsClosed()) return OPEN_NONE;
+        if (leftBlindOpen()) return OPEN_LEFT;
+        if (rightBlindOpen()) return OPEN_RIGHT;
+        return OPEN_NONE;
+    }
+
+    @Override
+    protected void placeBlind(int openState) {
+        switch (openState) {
+            case OPEN_LEFT:
+                mMovingBlindPosition = mGeometry.getLeftLatch();
+                break;
+            case OPEN_RIGHT:
+                mMovingBlindPosition = mGeometry.getRightLatch();
+                break;
+            default:
+                mMovingBlindPosition = Float.NaN;
+        }
     }
 
-    private boolean blindsClosed() { return Float.isNaN(mMovingBlindPositionRelative); }
-    private boolean leftBlindOpen() { return mMovingBlindPositionRelative <= mLeftBlindBaseRelative; }
-    private boolean rightBlindOpen() { return mMovingBlindPositionRelative >= mRightBlindBaseRelative; }
+    private boolean blindsClosed() { return Float.isNaN(mMovingBlindPosition); }
+    private boolean leftBlindOpen() { return mMovingBlindPosition <= mGeometry.getLeftBlindBase(); }
+    private boolean rightBlindOpen() { return mMovingBlindPosition >= mGeometry.getRightBlindBase(); }
 }
@@ -20,19 +20,15 @@ public class SingleBlindView extends AbsBlindedView {
     private static final int STATE_NOTHING = 0;
     private static final int STATE_MASK = 0x30;
     //---------------------------------------------------------------------------
-//  attrs
-    private float mLeftBlindAxisSentinelRelative;
-    private float mRightBlindAxisSentinelRelative;
-    private float mLatchReleaseRelative;
-    //  moving blind variables
-    private float mBlindAxisPositionRelative;
+    //  moving blind variables, offset from closed position in pixels
+    private float mBlindOffset;
     private int mBlindsFlags;
 //--------------------------------------------------------------------------
 
     public SingleBlindView(Context context, AttributeSet attrs) {
         super(context, attrs);
 
-        mBlindAxisPositionRelative = 0.5f;
+        mBlindOffset = 0f;
         mBlindsFlags = 0;
 
         super.setOnClickListener(v -> {
@@ -46,7 +42,7 @@ public class SingleBlindView extends AbsBlindedView {
                         mOnInteractionListener.onBlindedItemClick(this, false);
                     break;
                 case TARGET_BLIND:
-                    shut(0.5f);
+                    shut(0f);
                     if (null != mOnInteractionListener)
                         mOnInteractionListener.onBlindClick(this);
                     break;
@@ -55,20 +51,6 @@ public class SingleBlindView extends AbsBlindedView {
             }});
     }
 
-    @Override
-    public void setBlindWidth(float blindWidth) {
-        super.setBlindWidth(blindWidth);
-        mLeftBlindAxisSentinelRelative = 0.5f - blindWidth;
-        mRightBlindAxisSentinelRelative = 0.5f + blindWidth;
-        mLatchReleaseRelative = blindWidth * getLatchRelease();
-    }
-
-    @Override
-    public void setLatchRelease(float latchRelease) {
-        super.setLatchRelease(latchRelease);
-        mLatchReleaseRelative = getBlindWidth() * latchRelease;
-    }
-
     @Override
     protected void onDraw(Canvas canvas) {
         super.onDraw(canvas);
@@ -79,22 +61,22 @@ public class SingleBlindView extends AbsBlindedView {
         String text = mText.toString();
 
         float startText;
-        float blindLeft, blindRight;
+        int blindLeft, blindRight;
         if (blindClosed()) {
             startText = mTextOffsetFromLeft;
             blindLeft = 0;
             blindRight = mScaledViewWidth;
         } else if (leftSideOpen()) {
-            blindLeft = (mBlindAxisPositionRelative - 0.5f) * mScaledViewWidth;
+            blindLeft = BlindGeometry.snap(mBlindOffset);
             startText = blindLeft + mTextOffsetFromLeft;
             blindRight = blindLeft + mScaledViewWidth;
         } else if (rightSideOpen()) {
-            blindRight = (mBlindAxisPositionRelative + 0.5f) * mScaledViewWidth;
+            blindRight = BlindGeometry.snap(mBlindOffset) + mScaledViewWidth;
             startText = blindRight - mTextOffsetFromRight;
             blindLeft = blindRight - mScaledViewWidth;
         }
         else throw new IllegalStateException("Illegal BlindedView state at onDraw");
-        mBlindBack.setBounds((int)blindLeft, 0, (int)blindRight, mScaledViewHeight);
+        mBlindBack.setBounds(blindLeft, 0, blindRight, mScaledViewHeight);
         mBlindBack.draw(canvas);
         canvas.drawText(text, startText, mTextBaseline, mTextPaint);
     }
@@ -144,9 +126,8 @@ public class SingleBlindView extends AbsBlindedView {
 
     private void rememberBlindsDownParams(float x, float y) {
         mRefPoint.set(x, y);
-        float relativeX = x / mScaledViewWidth;
         if (leftSideOpen()) {
-            if (relativeX < mBlindAxisPositionRelative - 0.5f) {    //  to the left of blind
+            if (mGeometry.leftOfSingleBlind(mBlindOffset, x)) {    //  to the left of blind
                 if (withinIcon(x, y, mDrawableLeft)) {
                     mBlindsFlags = TARGET_BUTTON_L | STATE_CLICK;
                 } else {
@@ -156,7 +137,7 @@ public class SingleBlindView extends AbsBlindedView {
                 mBlindsFlags = TARGET_BLIND | STATE_CLICK;
             }
         } else if (rightSideOpen()) {
-            if (relativeX > mBlindAxisPositionRelative + 0.5f) {    //  to the right of blind
+            if (mGeometry.rightOfSingleBlind(mBlindOffset, x)) {    //  to the right of blind
                 if (withinIcon(x, y, mDrawableRight)) {
                     mBlindsFlags = TARGET_BUTTON_R | STATE_CLICK;
                 } else {
@@ -172,18 +153,10 @@ public class SingleBlindView extends AbsBlindedView {
 
     private boolean slide(float x) {
         assert 0 <= mRefPoint.x && mRefPoint.x <= mScaledViewWidth : "slide() assertion failed";
-        if (x < 0) x = 0;
-        else if (x > mScaledViewWidth) x = mScaledViewWidth;
-        if (x == mRefPoint.x) return false;
-
-        float oldPosition = mBlindAxisPositionRelative;
-        mBlindAxisPositionRelative += (x - mRefPoint.x) / mScaledViewWidth;
-        mRefPoint.x = x;
-        if (mBlindAxisPositionRelative < mLeftBlindAxisSentinelRelative)
-            mBlindAxisPositionRelative = mLeftBlindAxisSentinelRelative;
-        else if (mBlindAxisPositionRelative > mRightBlindAxisSentinelRelative)
-            mBlindAxisPositionRelative = mRightBlindAxisSentinelRelative;
-        return oldPosition != mBlindAxisPositionRelative;
+        float oldOffset = mBlindOffset;
+        mBlindOffset = mGeometry.slideSingleBlind(mBlindOffset, mRefPoint.x, x);
+        mRefPoint.x = mGeometry.getSlideRef();
+        return oldOffset != mBlindOffset;
     }
 
     private void finalizeTouchInteraction(float x, float y, boolean correctly) {
@@ -209,13 +182,8 @@ public class SingleBlindView extends AbsBlindedView {
                 throw new IllegalStateException("Illegal BlindView state on finalizeTouch::Click");
             case STATE_SLIDE:
                 assert target == TARGET_BLIND : "finalizeTouch::SLIDE not the blind";
-                if (leftSideOpen()) {
-                    float latchPos = mRightBlindAxisSentinelRelative - mLatchReleaseRelative;
-                    shut(mBlindAxisPositionRelative >= latchPos ? latchPos : 0.5f);
-                } else if (rightSideOpen()) {
-                    float latchPos = mLeftBlindAxisSentinelRelative + mLatchReleaseRelative;
-                    shut(mBlindAxisPositionRelative <= latchPos ? latchPos : 0.5f);
-                }
+                if (!blindClosed())
+                    shut(mGeometry.latchSingleBlind(mBlindOffset));
                 if (null != mOnInteractionListener)
                     mOnInteractionListener.onBlindSlideCompleted(this);
                 break;
@@ -228,14 +196,35 @@ public class SingleBlindView extends AbsBlindedView {
     }
 
     @Override
-    public void shut() { shut(0.5f); }
+    public void shut() { setOpenState(OPEN_NONE); }
 
-    private void shut(float position) {
-        mBlindAxisPositionRelative = position;
+    private void shut(float offset) {
+        mBlindOffset = offset;
         invalidate();
     }
 
-    private boolean blindClosed() { return mBlindAxisPositionRelative == 0.5f; }
-    private boolean leftSideOpen() { return mBlindAxisPositionRelative > 0.5f; }
-    private boolean rightSideOpen() { return mBlindAxisPositionRelative < 0.5f; }
+    @Override
+    protected int computeOpenState() {
+        if (leftSideOpen()) return OPEN_LEFT;
+        if (rightSideOpen()) return OPEN_RIGHT;
+        return OPEN_NONE;
+    }
+
+    @Override
+    protected void placeBlind(int openState) {
+        switch (openState) {
+            case OPEN_LEFT:
+                mBlindOffset = mGeometry.getLatchOffset();
+                break;
+            case OPEN_RIGHT:
+                mBlindOffset = -mGeometry.getLatchOffset();
+                break;
+            default:
+                mBlindOffset = 0f;
+        }
+    }
+
+    private boolean blindClosed() { return mBlindOffset == 0f; }
+    private boolean leftSideOpen() { return mBlindOffset > 0f; }
+    private boolean rightSideOpen() { return mBlindOffset < 0f; }
 }
@@ -0,0 +1,313 @@
+package org.shurman.blindedview;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+import org.junit.Test;
+
+import java.util.Random;
+
+/**
+ * Sweeps view widths and blind attrs, checking the pixel geometry against the relative formulas
+ * BlindedView and SingleBlindView used before, scaled by the view width. The touch tests replay
+ * the same moves through the pixel methods and through copies of the former relative code.
+ */
+public class BlindGeometryTest {
+    private static final double PIXEL = 1.0;
+    private static final double SLACK = 1e-3;       //  float noise of the relative arithmetic
+    private static final int MOVES = 200;
+
+    private interface Case { void check(int width, float blindWidth, float latchRelease, BlindGeometry g); }
+
+    private static void sweep(Case c) {
+        BlindGeometry g = new BlindGeometry();
+        for (int width = 1; width <= 2560; width += width < 64 ? 1 : 7) {
+            for (int bw = 1; bw <= 50; bw++) {
+                float blindWidth = bw / 100f;
+                for (int lr = 0; lr <= 20; lr++) {
+                    float latchRelease = lr / 20f;
+                    g.measure(width, blindWidth, latchRelease);
+                    c.check(width, blindWidth, latchRelease, g);
+                }
+            }
+        }
+    }
+
+    /** Coarser sweep for the per-touch tests, which replay many moves per case. */
+    private static void sweepTouch(Case c) {
+        BlindGeometry g = new BlindGeometry();
+        for (int width = 1; width <= 2560; width += width < 32 ? 1 : 61) {
+            for (int bw = 1; bw <= 50; bw += 7) {
+                float blindWidth = bw / 100f;
+                for (int lr = 0; lr <= 4; lr++) {
+                    float latchRelease = lr / 4f;
+                    g.measure(width, blindWidth, latchRelease);
+                    c.check(width, blindWidth, latchRelease, g);
+                }
+            }
+        }
+    }
+
+    /** Touch x within the view, with the edges and bases hit now and then. */
+    private static float nextX(Random rnd, int width, int... marks) {
+        int pick = rnd.nextInt(8);
+        if (pick == 0) return 0f;
+        if (pick == 1) return width;
+        if (pick == 2 && marks.length > 0) return marks[rnd.nextInt(marks.length)];
+        return rnd.nextFloat() * width;
+    }
+
+    private static String describe(int width, float blindWidth, float latchRelease) {
+        return "W=" + width + " bw=" + blindWidth + " lr=" + latchRelease;
+    }
+
+    @Test
+    public void basesMatchRelativeFormulas() {
+        sweep((w, bw, lr, g) -> {
+            String msg = describe(w, bw, lr);
+            assertEquals(msg, (double) bw * w, g.getLeftBlindBase(), PIXEL);
+            assertEquals(msg, (1.0 - bw) * w, g.getRightBlindBase(), PIXEL);
+        });
+    }
+
+    @Test
+    public void latchesMatchRelativeFormulas() {
+        sweep((w, bw, lr, g) -> {
+            String msg = describe(w, bw, lr);
+            assertEquals(msg, (double) bw * (1.0 - lr) * w, g.getLeftLatch(), PIXEL);
+            assertEquals(msg, (1.0 - bw + (double) bw * lr) * w, g.getRightLatch(), PIXEL);
+        });
+    }
+
+    @Test
+    public void singleBlindMatchesRelativeFormulas() {
+        sweep((w, bw, lr, g) -> {
+            String msg = describe(w, bw, lr);
+            //  sentinels were 0.5 -/+ bw around the closed axis, latches sentinel -/+ bw * lr
+            assertEquals(msg, (double) bw * w, g.getBlindSentinel(), PIXEL);
+            assertEquals(msg, ((0.5 + bw - (double) bw * lr) - 0.5) * w, g.getLatchOffset(), PIXEL);
+        });
+    }
+
+    @Test
+    public void leftAndRightAreSymmetric() {
+        sweep((w, bw, lr, g) -> {
+            String msg = describe(w, bw, lr);
+            assertEquals(msg, w - g.getLeftBlindBase(), g.getRightBlindBase());
+            assertEquals(msg, w - g.getLeftLatch(), g.getRightLatch());
+        });
+    }
+
+    @Test
+    public void latchesLieWithinBlindTravel() {
+        sweep((w, bw, lr, g) -> {
+            String msg = describe(w, bw, lr);
+            assertTrue(msg, 0 <= g.getLeftLatch() && g.getLeftLatch() <= g.getLeftBlindBase());
+            assertTrue(msg, g.getRightBlindBase() <= g.getRightLatch() && g.getRightLatch() <= w);
+            assertTrue(msg, 0 <= g.getLatchOffset() && g.getLatchOffset() <= g.getBlindSentinel());
+        });
+    }
+
+    //  former BlindedView.slideLeftBlind(), relative position
+    private static float[] oldSlideLeft(float pos, float ref, float x, int w, float bw) {
+        int scaledBase = (int) (w * bw);
+        if (x <= 0f) {
+            if (pos > 0f) { pos = 0f; ref = 0f; }
+            return new float[] {pos, ref};
+        }
+        if (x >= scaledBase) {
+            if (ref < scaledBase) {
+                pos += (scaledBase - ref) / w;
+                if (pos > bw) pos = bw;
+                ref = scaledBase;
+            }
+            return new float[] {pos, ref};
+        }
+        pos += (x - ref) / w;
+        if (pos < 0f) pos = 0f;
+        else if (pos > bw) pos = bw;
+        return new float[] {pos, x};
+    }
+
+    //  former BlindedView.slideRightBlind(), relative position
+    private static float[] oldSlideRight(float pos, float ref, float x, int w, float bw) {
+        float baseRelative = 1 - bw;
+        int scaledBase = (int) (w * baseRelative);
+        if (x > w) {
+            if (pos < 1f) { pos = 1f; ref = w; }
+            return new float[] {pos, ref};
+        }
+        if (x <= scaledBase) {
+            if (ref > scaledBase) {
+                pos += (scaledBase - ref) / w;
+                if (pos < baseRelative) pos = baseRelative;
+                ref = scaledBase;
+            }
+            return new float[] {pos, ref};
+        }
+        pos += (x - ref) / w;
+        if (pos > 1f) pos = 1f;
+        else if (pos < baseRelative) pos = baseRelative;
+        return new float[] {pos, x};
+    }
+
+    //  former SingleBlindView.slide(), relative blind axis
+    private static float[] oldSlideSingle(float axis, float ref, float x, int w, float bw) {
+        if (x < 0) x = 0;
+        else if (x > w) x = w;
+        if (x == ref) return new float[] {axis, ref};
+        axis += (x - ref) / w;
+        if (axis < 0.5f - bw) axis = 0.5f - bw;
+        else if (axis > 0.5f + bw) axis = 0.5f + bw;
+        return new float[] {axis, x};
+    }
+
+    @Test
+    public void leftBlindSlideMatchesRelativeCode() {
+        sweepTouch((w, bw, lr, g) -> {
+            Random rnd = new Random(w * 31L + Float.floatToIntBits(bw));
+            float down = rnd.nextFloat() * g.getLeftBlindBase();
+            float pos = 0f, ref = down;
+            float[] old = {0f, down};
+            for (int i = 0; i < MOVES; i++) {
+                float x = nextX(rnd, w, g.getLeftBlindBase());
+                pos = g.slideLeftBlind(pos, ref, x);
+                ref = g.getSlideRef();
+                old = oldSlideLeft(old[0], old[1], x, w, bw);
+                String msg = describe(w, bw, lr) + " move " + i + " x=" + x;
+                assertEquals(msg, old[0] * w, pos, PIXEL + SLACK);
+                assertEquals(msg, old[1], ref, 0f);
+                assertTrue(msg, 0f <= pos && pos <= g.getLeftBlindBase());
+            }
+        });
+    }
+
+    @Test
+    public void rightBlindSlideMatchesRelativeCode() {
+        sweepTouch((w, bw, lr, g) -> {
+            Random rnd = new Random(w * 37L + Float.floatToIntBits(bw));
+            float down = g.getRightBlindBase() + rnd.nextFloat() * (w - g.getRightBlindBase());
+            float pos = w, ref = down;
+            float[] old = {1f, down};
+            for (int i = 0; i < MOVES; i++) {
+                float x = nextX(rnd, w, g.getRightBlindBase());
+                pos = g.slideRightBlind(pos, ref, x);
+                ref = g.getSlideRef();
+                old = oldSlideRight(old[0], old[1], x, w, bw);
+                String msg = describe(w, bw, lr) + " move " + i + " x=" + x;
+                assertEquals(msg, old[0] * w, pos, PIXEL + SLACK);
+                assertEquals(msg, old[1], ref, PIXEL);
+                assertTrue(msg, g.getRightBlindBase() <= pos && pos <= w);
+            }
+        });
+    }
+
+    @Test
+    public void singleBlindSlideMatchesRelativeCode() {
+        sweepTouch((w, bw, lr, g) -> {
+            Random rnd = new Random(w * 41L + Float.floatToIntBits(bw));
+            float down = rnd.nextFloat() * w;
+            float offset = 0f, ref = down;
+            float[] old = {0.5f, down};
+            for (int i = 0; i < MOVES; i++) {
+                float x = nextX(rnd, w);
+                offset = g.slideSingleBlind(offset, ref, x);
+                ref = g.getSlideRef();
+                old = oldSlideSingle(old[0], old[1], x, w, bw);
+                String msg = describe(w, bw, lr) + " move " + i + " x=" + x;
+                assertEquals(msg, (old[0] - 0.5) * w, offset, PIXEL + SLACK);
+                assertEquals(msg, old[1], ref, 0f);
+                assertTrue(msg, -g.getBlindSentinel() <= offset && offset <= g.getBlindSentinel());
+            }
+        });
+    }
+
+    @Test
+    public void blindLatchMatchesRelativeCode() {
+        sweepTouch((w, bw, lr, g) -> {
+            float leftLatch = bw * (1 - lr);
+            float rightLatch = (1 - bw) + bw * lr;
+            for (float pos = 0f; pos <= g.getLeftBlindBase(); pos += 0.25f) {
+                String msg = describe(w, bw, lr) + " pos=" + pos;
+                if (Math.abs(pos - leftLatch * w) <= PIXEL) continue;    //  decision may flip next to the latch
+                float old = pos / w < leftLatch ? Float.NaN : leftLatch;
+                float now = g.latchLeftBlind(pos);
+                assertEquals(msg, Float.isNaN(old), Float.isNaN(now));
+                if (!Float.isNaN(now)) assertEquals(msg, old * w, now, PIXEL);
+            }
+            for (float pos = w; pos >= g.getRightBlindBase(); pos -= 0.25f) {
+                String msg = describe(w, bw, lr) + " pos=" + pos;
+                if (Math.abs(pos - rightLatch * w) <= PIXEL) continue;
+                float old = pos / w > rightLatch ? Float.NaN : rightLatch;
+                float now = g.latchRightBlind(pos);
+                assertEquals(msg, Float.isNaN(old), Float.isNaN(now));
+                if (!Float.isNaN(now)) assertEquals(msg, old * w, now, PIXEL);
+            }
+        });
+    }
+
+    @Test
+    public void singleBlindLatchMatchesRelativeCode() {
+        sweepTouch((w, bw, lr, g) -> {
+            float latchRelative = bw * lr;
+            for (float offset = -g.getBlindSentinel(); offset <= g.getBlindSentinel(); offset += 0.25f) {
+                String msg = describe(w, bw, lr) + " offset=" + offset;
+                float axis = 0.5f + offset / w;
+                float old;
+                if (axis > 0.5f) {
+                    float latchPos = 0.5f + bw - latchRelative;
+                    if (Math.abs(offset - (latchPos - 0.5) * w) <= PIXEL) continue;
+                    old = axis >= latchPos ? latchPos : 0.5f;
+                } else if (axis < 0.5f) {
+                    float latchPos = 0.5f - bw + latchRelative;
+                    if (Math.abs(offset - (latchPos - 0.5) * w) <= PIXEL) continue;
+                    old = axis <= latchPos ? latchPos : 0.5f;
+                } else {
+                    old = 0.5f;
+                }
+                assertEquals(msg, (old - 0.5) * w, g.latchSingleBlind(offset), PIXEL);
+            }
+        });
+    }
+
+    @Test
+    public void hitTestingMatchesRelativeCode() {
+        sweepTouch((w, bw, lr, g) -> {
+            for (float x = 0f; x <= w; x += 0.25f) {
+                String msg = describe(w, bw, lr) + " x=" + x;
+                float relativeX = x / w;
+                if (Math.abs(x - bw * w) > PIXEL)
+                    assertEquals(msg, relativeX < bw, g.inLeftBlindArea(x));
+                if (Math.abs(x - (1 - bw) * w) > PIXEL)
+                    assertEquals(msg, relativeX > 1 - bw, g.inRightBlindArea(x));
+                for (float offset = -g.getBlindSentinel(); offset <= g.getBlindSentinel(); offset += w / 8f + 0.5f) {
+                    float axis = 0.5f + offset / w;
+                    if (Math.abs(x - offset) > SLACK)
+                        assertEquals(msg, relativeX < axis - 0.5f, g.leftOfSingleBlind(offset, x));
+                    if (Math.abs(x - offset - w) > SLACK)
+                        assertEquals(msg, relativeX > axis + 0.5f, g.rightOfSingleBlind(offset, x));
+                }
+            }
+        });
+    }
+
+    @Test
+    public void snapRoundsBothSidesAlike() {
+        assertEquals(3, BlindGeometry.snap(2.5f));
+        assertEquals(-3, BlindGeometry.snap(-2.5f));
+        assertEquals(10, BlindGeometry.snap(9.6f));
+        assertEquals(-10, BlindGeometry.snap(-9.6f));
+        for (int quarter = 0; quarter <= 4 * 2560; quarter++) {
+            float x = quarter / 4f;
+            assertEquals("x=" + x, -BlindGeometry.snap(x), BlindGeometry.snap(-x));
+            assertEquals("x=" + x, x, BlindGeometry.snap(x), 0.5);
+        }
+    }
+
+    @Test
+    public void clampKeepsValueInRange() {
+        assertEquals(0f, BlindGeometry.clamp(-5f, 0f, 10f), 0f);
+        assertEquals(10f, BlindGeometry.clamp(15f, 0f, 10f), 0f);
+        assertEquals(7.5f, BlindGeometry.clamp(7.5f, 0f, 10f), 0f);
+    }
+}